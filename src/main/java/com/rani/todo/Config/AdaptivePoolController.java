@@ -0,0 +1,135 @@
+package com.rani.todo.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes the Hikari pool from observed connection wait time and database latency.
+ * The pool grows while requests queue for connections and the database keeps up, and shrinks when the
+ * database slows down (more connections would only add contention) or when connections sit idle.
+ * Database latency is approximated by how long connections are held, compared to a slowly drifting minimum.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "todo.datasource.adaptive.enabled", havingValue = "true")
+public class AdaptivePoolController {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${todo.datasource.adaptive.min-size:5}")
+    private int minSize;
+
+    @Value("${todo.datasource.adaptive.max-size:30}")
+    private int maxSize;
+
+    @Value("${todo.datasource.adaptive.step:2}")
+    private int step;
+
+    @Value("${todo.datasource.adaptive.target-wait-ms:5}")
+    private double targetWaitMs;
+
+    @Value("${todo.datasource.adaptive.latency-factor:2.0}")
+    private double latencyFactor;
+
+    private HikariDataSource hikari;
+    private final TimerDelta acquire = new TimerDelta();
+    private final TimerDelta usage = new TimerDelta();
+    private double baselineUsageMs = Double.NaN;
+
+    @PostConstruct
+    void init() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikari = hikariDataSource;
+        } else {
+            log.warn("Adaptive pool sizing disabled, data source is not Hikari: {}", dataSource.getClass().getName());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.datasource.adaptive.interval-ms:10000}")
+    public void adjust() {
+        HikariPoolMXBean pool = hikari == null ? null : hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return;
+        }
+        double waitMs = acquire.meanMs(timer("hikaricp.connections.acquire"));
+        double usageMs = usage.meanMs(timer("hikaricp.connections.usage"));
+        if (usageMs > 0) {
+            // Tracks the fastest recent latency but lets it rise slowly so a lasting shift becomes the new normal
+            baselineUsageMs = Double.isNaN(baselineUsageMs) ? usageMs : Math.min(usageMs, baselineUsageMs * 1.05);
+        }
+
+        int current = hikari.getHikariConfigMXBean().getMaximumPoolSize();
+        PoolSample sample = new PoolSample(waitMs, usageMs, baselineUsageMs,
+                pool.getThreadsAwaitingConnection(), pool.getIdleConnections());
+        int next = nextPoolSize(current, sample);
+        if (next != current) {
+            log.info("Resizing connection pool {} -> {} (wait {} ms, latency {} ms, baseline {} ms, waiting threads {})",
+                    current, next, round(waitMs), round(usageMs), round(baselineUsageMs), sample.threadsAwaiting());
+            hikari.getHikariConfigMXBean().setMaximumPoolSize(next);
+        }
+    }
+
+    int nextPoolSize(int current, PoolSample sample) {
+        int next = current;
+        boolean databaseSlow = !Double.isNaN(sample.usageMs()) && !Double.isNaN(sample.baselineUsageMs())
+                && sample.usageMs() > sample.baselineUsageMs() * latencyFactor;
+        boolean waiting = sample.threadsAwaiting() > 0
+                || (!Double.isNaN(sample.waitMs()) && sample.waitMs() > targetWaitMs);
+        if (databaseSlow) {
+            next = current - step;
+        } else if (waiting) {
+            next = current + step;
+        } else if (sample.idle() > step) {
+            next = current - 1;
+        }
+        return Math.max(minSize, Math.min(maxSize, next));
+    }
+
+    private Timer timer(String name) {
+        return meterRegistry.find(name).tag("pool", hikari.getPoolName()).timer();
+    }
+
+    private static double round(double value) {
+        return Double.isNaN(value) ? value : Math.round(value * 100) / 100.0;
+    }
+
+    record PoolSample(double waitMs, double usageMs, double baselineUsageMs, int threadsAwaiting, int idle) {
+    }
+
+    /**
+     * Mean of a timer over the interval since the previous call, NaN when nothing was recorded.
+     */
+    private static final class TimerDelta {
+        private long lastCount;
+        private double lastTotalMs;
+
+        double meanMs(Timer timer) {
+            if (timer == null) {
+                return Double.NaN;
+            }
+            long count = timer.count();
+            double totalMs = timer.totalTime(TimeUnit.MILLISECONDS);
+            long samples = count - lastCount;
+            double mean = samples > 0 ? (totalMs - lastTotalMs) / samples : Double.NaN;
+            lastCount = count;
+            lastTotalMs = totalMs;
+            return mean;
+        }
+    }
+}
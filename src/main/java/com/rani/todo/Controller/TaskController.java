@@ -1,5 +1,6 @@
 package com.rani.todo.Controller;
 
+import com.rani.todo.Dto.TaskSubtree;
 import com.rani.todo.Entity.Task;
 import org.springframework.http.ResponseEntity;
 import java.util.List;
@@ -10,6 +11,8 @@ public interface TaskController {
 
     ResponseEntity<Task> getTaskById(Long id);
 
+    ResponseEntity<TaskSubtree> getSubtree(Long id);
+
     ResponseEntity<Task> createTask(Task task);
 
     ResponseEntity<Task> updateTask(Long id, Boolean completed);
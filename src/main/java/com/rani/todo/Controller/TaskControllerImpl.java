@@ -8,6 +8,7 @@
 
 package com.rani.todo.Controller;
 
+import com.rani.todo.Dto.TaskSubtree;
 import com.rani.todo.Entity.Task;
 import com.rani.todo.Exceptions.TaskNotFoundException;
 import com.rani.todo.Service.TaskServiceImpl;
@@ -98,7 +99,30 @@ public class TaskControllerImpl implements TaskController {
         log.info("Fetching task with ID: {}", id);
         return taskService.getTaskById(id)
                 .map(ResponseEntity::ok)
-                .orElseThrow(() -> new TaskNotFoundException(id + " not found"));
+                .orElseThrow(() -> TaskNotFoundException.LOOKUP_MISS);
+    }
+
+    /**
+     * Retrieves a task together with all of its subtasks in one query.
+     *
+     * @param id the ID of the root task. Defaults to 1.
+     * @return ResponseEntity with the subtree and its completion roll-up if found, or an error if not.
+     */
+    @Operation(summary = "Get a task subtree", description = "Fetches a task, all of its subtasks and their completion roll-up; "
+            + "subtrees above todo.tasks.subtree.max-tasks are cut off and flagged truncated")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the subtree"),
+            @ApiResponse(responseCode = "404", description = "Task not found")
+    })
+    @Override
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<TaskSubtree> getSubtree(
+            @Parameter(description = "ID of the root task", example = "1")
+            @PathVariable Long id) {
+        log.info("Fetching subtree of task with ID: {}", id);
+        return taskService.getSubtree(id)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> TaskNotFoundException.LOOKUP_MISS);
     }
 
     /**
@@ -109,7 +133,8 @@ public class TaskControllerImpl implements TaskController {
      */
     @Operation(summary = "Create a new task", description = "Creates a new task in the system")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully created the task")
+            @ApiResponse(responseCode = "200", description = "Successfully created the task"),
+            @ApiResponse(responseCode = "422", description = "Parent task does not exist")
     })
     @Override
     @PostMapping
@@ -0,0 +1,32 @@
+package com.rani.todo.Dto;
+
+import com.rani.todo.Entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A task together with its descendants, and the completion roll-up over the whole subtree.
+ * Tasks are returned flat, ordered by id; clients rebuild the tree from {@code parentId}.
+ * This keeps deep hierarchies within JSON nesting limits. Subtrees larger than the configured cap
+ * are cut off in id order and flagged {@code truncated}; the counts still cover every task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSubtree {
+
+    private Long rootId;
+
+    private long totalTasks;
+
+    private long completedTasks;
+
+    private List<Task> tasks;
+
+    private boolean truncated;
+}
@@ -1,10 +1,16 @@
 package com.rani.todo.Entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
@@ -13,9 +19,34 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Sent reminders sort apart from pending ones, so the claim scan never walks reminder history
+        @Index(name = "idx_tasks_pending_reminders", columnList = "reminderSentAt, reminderAt"),
+        @Index(name = "idx_tasks_parent_id", columnList = "parentId")
+})
+// A subtree and its roll-up in one statement and one snapshot, capped at :limit rows.
+// A task has a single parent, so any cycle reached from the root runs back through the root;
+// never re-entering the root ends the walk on such data and keeps every row unique.
+// Window aggregates are computed before LIMIT, so a capped result still carries the whole subtree's counts.
+@NamedNativeQuery(name = "Task.findSubtree", resultSetMapping = "Task.subtreeRow", query =
+        "WITH RECURSIVE subtree(id) AS ("
+                + " SELECT id FROM tasks WHERE id = :id"
+                + " UNION ALL"
+                + " SELECT t.id FROM tasks t JOIN subtree s ON t.parent_id = s.id WHERE t.id <> :id)"
+                + " SELECT t.*, CAST(COUNT(*) OVER () AS BIGINT) AS subtree_total,"
+                + " CAST(SUM(CASE WHEN t.completed THEN 1 ELSE 0 END) OVER () AS BIGINT) AS subtree_completed"
+                + " FROM tasks t JOIN subtree s ON t.id = s.id"
+                + " ORDER BY t.id LIMIT :limit")
+@SqlResultSetMapping(name = "Task.subtreeRow",
+        entities = @EntityResult(entityClass = Task.class),
+        columns = {
+                @ColumnResult(name = "subtree_total", type = Long.class),
+                @ColumnResult(name = "subtree_completed", type = Long.class)
+        })
 
 public class Task {
+    // Assigned by the database only; accepting it from clients would let a create overwrite an existing task
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,10 +66,45 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Null for top-level tasks; subtrees are read in one query via TaskRepository.findSubtree
+    private Long parentId;
+
+    // Only here for the FK and cascading delete; never loaded, keep it out of JSON and toString
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parentId", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task parent;
+
+    private LocalDateTime dueAt;
+
+    // Defaults to dueAt when not set explicitly
+    private LocalDateTime reminderAt;
+
+    // The reminder state below is written only by the bulk updates in TaskRepository; updatable = false keeps
+    // a PATCH that loaded the row before a claim or send from writing the old values back and re-arming it
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(updatable = false)
+    private LocalDateTime reminderSentAt;
+
+    // Node currently holding the reminder lease, see ReminderServiceImpl
+    @JsonIgnore
+    @Column(length = 64, updatable = false)
+    private String reminderClaimedBy;
+
+    @JsonIgnore
+    @Column(updatable = false)
+    private LocalDateTime reminderLeaseUntil;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (reminderAt == null) {
+            reminderAt = dueAt;
+        }
     }
 
     @PreUpdate
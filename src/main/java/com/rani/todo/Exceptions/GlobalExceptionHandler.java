@@ -1,31 +1,83 @@
 package com.rani.todo.Exceptions;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.net.URI;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+/**
+ * Maps exceptions to RFC 7807 problem responses.
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final URI TASK_NOT_FOUND_TYPE = URI.create("/problems/task-not-found");
+    private static final URI VALIDATION_TYPE = URI.create("/problems/validation");
+    private static final URI INVALID_PARENT_TYPE = URI.create("/problems/invalid-parent");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Serialized once: the body is the same for every lookup miss, the ID is already in the request path
+    private ResponseEntity<byte[]> lookupMissResponse;
+
+    @PostConstruct
+    void init() throws JsonProcessingException {
+        byte[] body = objectMapper.writeValueAsBytes(taskNotFound(TaskNotFoundException.LOOKUP_MISS));
+        lookupMissResponse = ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
+    public ResponseEntity<ProblemDetail> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        Map<String, String> errors = new LinkedHashMap<>();
         ex.getBindingResult().getFieldErrors().forEach(error ->
                 errors.put(error.getField(), error.getDefaultMessage()));
-        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, "Request validation failed");
+        problem.setType(VALIDATION_TYPE);
+        problem.setTitle("Invalid request");
+        problem.setProperty("errors", errors);
+        return problem(problem);
     }
 
     @ExceptionHandler(TaskNotFoundException.class)
-    public ResponseEntity<Map<String, String>> handleTaskNotFoundException(TaskNotFoundException ex) {
-        Map<String, String> errors = new HashMap<>();
-        errors.put("ErrorMessage", ex.getMessage());
-        errors.put("ErrorCode", String.valueOf(HttpStatus.OK));
-        errors.put("Name", "Rani");
-        return new ResponseEntity<>(errors, HttpStatus.OK);
+    public ResponseEntity<?> handleTaskNotFoundException(TaskNotFoundException ex) {
+        if (ex == TaskNotFoundException.LOOKUP_MISS) {
+            return lookupMissResponse;
+        }
+        return problem(taskNotFound(ex));
+    }
+
+    @ExceptionHandler(InvalidParentTaskException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidParentTaskException(InvalidParentTaskException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage());
+        problem.setType(INVALID_PARENT_TYPE);
+        problem.setTitle("Invalid parent task");
+        return problem(problem);
+    }
+
+    private static ProblemDetail taskNotFound(TaskNotFoundException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        problem.setType(TASK_NOT_FOUND_TYPE);
+        problem.setTitle("Task not found");
+        return problem;
+    }
+
+    private static ResponseEntity<ProblemDetail> problem(ProblemDetail problem) {
+        return ResponseEntity.status(problem.getStatus())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(problem);
     }
 }
@@ -0,0 +1,7 @@
+package com.rani.todo.Exceptions;
+
+public class InvalidParentTaskException extends RuntimeException {
+    public InvalidParentTaskException(String msg) {
+        super(msg);
+    }
+}
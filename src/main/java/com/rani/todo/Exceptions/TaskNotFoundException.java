@@ -1,7 +1,18 @@
 package com.rani.todo.Exceptions;
 
+/**
+ * Thrown for every lookup miss, which clients probing IDs can make a hot path,
+ * so it skips stack trace capture; the message carries everything the handler needs.
+ */
 public class TaskNotFoundException extends RuntimeException {
+
+    /**
+     * Shared instance for plain lookups by the ID in the request path. Stackless and without suppression,
+     * so it holds no per-request state, and the handler answers it with a prebuilt response.
+     */
+    public static final TaskNotFoundException LOOKUP_MISS = new TaskNotFoundException("Task not found");
+
     public TaskNotFoundException(String msg) {
-        super(msg);
+        super(msg, null, false, false);
     }
 }
@@ -1,15 +1,49 @@
 package com.rani.todo.Repository;
 
 import com.rani.todo.Entity.Task;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
     List<Task> findByIdGreaterThan(Long id);
 
     List<Task> findByIdAndTitle(Long id, String title);
-}
\ No newline at end of file
+
+    /**
+     * Range scan over the pending part of the reminder index for reminders due before {@code windowEnd} whose lease is free.
+     * Rows are locked with SKIP LOCKED (lock timeout -2) so concurrent nodes claim disjoint batches.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select t from Task t where t.reminderAt < :windowEnd and t.reminderSentAt is null "
+            + "and (t.reminderLeaseUntil is null or t.reminderLeaseUntil < :now) order by t.reminderAt")
+    List<Task> findClaimableReminders(@Param("windowEnd") LocalDateTime windowEnd,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    @Modifying
+    @Query("update Task t set t.reminderClaimedBy = :node, t.reminderLeaseUntil = :leaseUntil where t.id in :ids")
+    int claimReminders(@Param("ids") List<Long> ids,
+                       @Param("node") String node,
+                       @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update Task t set t.reminderSentAt = :sentAt "
+            + "where t.id = :id and t.reminderSentAt is null and t.reminderClaimedBy = :node")
+    int markReminderSent(@Param("id") Long id,
+                         @Param("node") String node,
+                         @Param("sentAt") LocalDateTime sentAt);
+}
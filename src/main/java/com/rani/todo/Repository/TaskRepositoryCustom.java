@@ -0,0 +1,12 @@
+package com.rani.todo.Repository;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * A task and its descendants, ordered by id, at most {@code limit} of them.
+     * Each row is the task followed by the total and completed counts of the whole subtree.
+     */
+    List<Object[]> findSubtree(Long id, int limit);
+}
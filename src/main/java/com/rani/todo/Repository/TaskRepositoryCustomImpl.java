@@ -0,0 +1,25 @@
+package com.rani.todo.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+/**
+ * Queries Spring Data cannot derive: the subtree page mixes an entity and scalar columns in each row,
+ * see the {@code Task.findSubtree} named query.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> findSubtree(Long id, int limit) {
+        return entityManager.createNamedQuery("Task.findSubtree")
+                .setParameter("id", id)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.rani.todo.Scheduler;
+
+import com.rani.todo.Entity.Task;
+import com.rani.todo.Service.ReminderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * In-process reminder scheduler.
+ * Periodically claims reminders due within the look-ahead window and fires them from a {@link TimingWheel},
+ * so only the near-term window is ever held in memory or read from the database.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "todo.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler {
+
+    @Autowired
+    private ReminderService reminderService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${todo.reminders.window-seconds:60}")
+    private long windowSeconds;
+
+    @Value("${todo.reminders.batch-size:500}")
+    private int batchSize;
+
+    @Value("${todo.reminders.max-batches-per-poll:4}")
+    private int maxBatchesPerPoll;
+
+    private final TimingWheel<Long> wheel;
+
+    public ReminderScheduler(@Value("${todo.reminders.tick-ms:1000}") long tickMs,
+                             @Value("${todo.reminders.wheel-size:64}") int wheelSize) {
+        this.wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Claims reminders due within the window and places them on the wheel.
+     * Work per poll is capped so a large overdue backlog is worked off over several polls
+     * instead of holding a scheduler thread.
+     */
+    @Scheduled(fixedDelayString = "${todo.reminders.poll-interval-ms:30000}")
+    public void loadUpcomingReminders() {
+        List<Task> claimed;
+        int batches = 0;
+        do {
+            claimed = reminderService.claimDueReminders(LocalDateTime.now().plusSeconds(windowSeconds), batchSize);
+            for (Task task : claimed) {
+                long deadline = task.getReminderAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                if (!wheel.schedule(task.getId(), deadline)) {
+                    fire(task.getId());
+                }
+            }
+            log.debug("Claimed {} reminders, {} pending on the wheel", claimed.size(), wheel.size());
+        } while (claimed.size() == batchSize && ++batches < maxBatchesPerPoll);
+    }
+
+    /**
+     * Advances the wheel and fires every reminder that has come due.
+     */
+    @Scheduled(fixedRateString = "${todo.reminders.tick-ms:1000}")
+    public void tick() {
+        wheel.advanceClock(System.currentTimeMillis()).forEach(this::fire);
+    }
+
+    private void fire(Long taskId) {
+        // Lease expired and another node took over, or it was already sent
+        if (!reminderService.markReminderSent(taskId)) {
+            log.debug("Skipping reminder for task ID: {}", taskId);
+            return;
+        }
+        log.info("Reminder due for task ID: {}", taskId);
+        eventPublisher.publishEvent(new TaskReminderEvent(taskId));
+    }
+}
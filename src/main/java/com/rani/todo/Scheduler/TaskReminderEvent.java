@@ -0,0 +1,7 @@
+package com.rani.todo.Scheduler;
+
+/**
+ * Published once per task when its reminder fires.
+ */
+public record TaskReminderEvent(Long taskId) {
+}
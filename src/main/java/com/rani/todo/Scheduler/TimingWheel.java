@@ -0,0 +1,111 @@
+package com.rani.todo.Scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel.
+ * Each level has {@code wheelSize} buckets of {@code tickMs}; deadlines beyond a level's span go to a
+ * lazily created overflow level whose tick is the span of the level below. Advancing by one tick only
+ * touches the current bucket of each level, so the per-tick cost does not depend on how many items are
+ * scheduled further out.
+ *
+ * @param <T> type of the scheduled item
+ */
+public class TimingWheel<T> {
+
+    private final TimingWheel<T> root;
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final ArrayDeque<Entry<T>>[] buckets;
+    private long currentTime;
+    private TimingWheel<T> overflow;
+    private int size;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this(null, tickMs, wheelSize, startMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TimingWheel(TimingWheel<T> root, long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive");
+        }
+        this.root = root == null ? this : root;
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    /**
+     * Schedules an item.
+     *
+     * @return false if the deadline has already been reached, in which case the caller should fire it now.
+     */
+    public synchronized boolean schedule(T item, long deadlineMs) {
+        // Round up to a tick boundary so items never fire before their deadline
+        long aligned = (deadlineMs + tickMs - 1) / tickMs * tickMs;
+        if (!add(new Entry<>(item, aligned))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the clock forward to {@code nowMs}.
+     *
+     * @return items whose deadline has been reached.
+     */
+    public synchronized List<T> advanceClock(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        advance(nowMs, expired);
+        size -= expired.size();
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private boolean add(Entry<T> entry) {
+        if (entry.deadlineMs < currentTime + tickMs) {
+            return false;
+        }
+        if (entry.deadlineMs < currentTime + interval) {
+            buckets[(int) ((entry.deadlineMs / tickMs) % wheelSize)].add(entry);
+            return true;
+        }
+        if (overflow == null) {
+            overflow = new TimingWheel<>(root, interval, wheelSize, currentTime);
+        }
+        return overflow.add(entry);
+    }
+
+    private void advance(long nowMs, List<T> expired) {
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            ArrayDeque<Entry<T>> bucket = buckets[(int) ((currentTime / tickMs) % wheelSize)];
+            Entry<T> entry;
+            while ((entry = bucket.poll()) != null) {
+                // Entries from an overflow level cascade down; anything that no longer fits a bucket is due
+                if (!root.add(entry)) {
+                    expired.add(entry.item);
+                }
+            }
+            if (overflow != null) {
+                overflow.advance(currentTime, expired);
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long deadlineMs) {
+    }
+}
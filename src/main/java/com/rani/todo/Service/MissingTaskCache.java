@@ -0,0 +1,77 @@
+package com.rani.todo.Service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived record of task IDs that were recently looked up and not found,
+ * so repeated probes for the same missing ID are answered without a database round-trip.
+ * Entries expire after the TTL, which bounds staleness when another node creates the task.
+ * Every entry gets the same TTL, so insertion order is expiry order and a full cache drops its oldest entry in O(1).
+ */
+@Component
+public class MissingTaskCache {
+
+    private final Map<Long, Long> expiries;
+    private final long ttlNanos;
+
+    public MissingTaskCache(@Value("${todo.tasks.missing-cache.ttl-ms:5000}") long ttlMs,
+                            @Value("${todo.tasks.missing-cache.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.expiries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized boolean isMissing(Long id) {
+        Long expiry = expiries.get(id);
+        if (expiry == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiry >= 0) {
+            expiries.remove(id);
+            return false;
+        }
+        return true;
+    }
+
+    public synchronized void markMissing(Long id) {
+        // Re-insert so a refreshed entry moves to the young end
+        expiries.remove(id);
+        expiries.put(id, System.nanoTime() + ttlNanos);
+    }
+
+    public synchronized void invalidate(Long id) {
+        expiries.remove(id);
+    }
+
+    synchronized int size() {
+        return expiries.size();
+    }
+
+    /**
+     * Invalidates once the current transaction commits; before that other readers still miss the row
+     * and would record the ID again. Without a transaction the entry is dropped right away.
+     */
+    public void invalidateAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(id);
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.rani.todo.Service;
+
+import com.rani.todo.Entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReminderService {
+
+    List<Task> claimDueReminders(LocalDateTime windowEnd, int limit);
+
+    boolean markReminderSent(Long id);
+}
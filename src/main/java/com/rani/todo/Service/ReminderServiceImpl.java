@@ -0,0 +1,56 @@
+package com.rani.todo.Service;
+
+import com.rani.todo.Entity.Task;
+import com.rani.todo.Repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims upcoming reminders on behalf of this node.
+ * A claim is a lease on the row: other nodes skip it until the lease runs out, and only the
+ * lease holder can mark the reminder as sent, so a reminder fires at most once across the cluster.
+ */
+@Service
+@Transactional
+public class ReminderServiceImpl implements ReminderService {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Value("${todo.reminders.node-id:}")
+    private String nodeId;
+
+    @Value("${todo.reminders.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @PostConstruct
+    void init() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = UUID.randomUUID().toString();
+        }
+    }
+
+    @Override
+    public List<Task> claimDueReminders(LocalDateTime windowEnd, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = taskRepository.findClaimableReminders(windowEnd, now, PageRequest.of(0, limit));
+        if (!tasks.isEmpty()) {
+            List<Long> ids = tasks.stream().map(Task::getId).toList();
+            taskRepository.claimReminders(ids, nodeId, now.plusSeconds(leaseSeconds));
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean markReminderSent(Long id) {
+        return taskRepository.markReminderSent(id, nodeId, LocalDateTime.now()) == 1;
+    }
+}
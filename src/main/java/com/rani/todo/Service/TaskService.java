@@ -1,5 +1,6 @@
 package com.rani.todo.Service;
 
+import com.rani.todo.Dto.TaskSubtree;
 import com.rani.todo.Entity.Task;
 
 import java.util.List;
@@ -11,6 +12,8 @@ public interface TaskService {
 
     Optional<Task> getTaskById(Long id);
 
+    Optional<TaskSubtree> getSubtree(Long id);
+
     Task createTask(Task task);
 
     Task updateTask(Long id, Boolean completed);
@@ -1,12 +1,16 @@
 package com.rani.todo.Service;
 
+import com.rani.todo.Dto.TaskSubtree;
 import com.rani.todo.Entity.Task;
+import com.rani.todo.Exceptions.InvalidParentTaskException;
 import com.rani.todo.Exceptions.TaskNotFoundException;
 import com.rani.todo.Repository.TaskRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,25 +21,67 @@ public class TaskServiceImpl implements TaskService{
     @Autowired
     private TaskRepository taskRepository;
 
+    @Value("${todo.tasks.subtree.max-tasks:10000}")
+    private int maxSubtreeTasks;
+
+    @Autowired
+    private MissingTaskCache missingTaskCache;
+
     @Override
     public List<Task> getAllTasks() {
         return taskRepository.findAll();
     }
 
+    // SUPPORTS so a cached miss neither begins a transaction nor borrows a connection; findById opens its own
     @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
     public Optional<Task> getTaskById(Long id) {
-        return taskRepository.findById(id);
+        if (missingTaskCache.isMissing(id)) {
+            return Optional.empty();
+        }
+        Optional<Task> task = taskRepository.findById(id);
+        if (task.isEmpty()) {
+            missingTaskCache.markMissing(id);
+        }
+        return task;
     }
 
     @Override
-    public Task createTask(Task task) {
-        return taskRepository.save(task);
+    public Optional<TaskSubtree> getSubtree(Long id) {
+        List<Object[]> rows = taskRepository.findSubtree(id, maxSubtreeTasks);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Task> tasks = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            tasks.add((Task) row[0]);
+        }
+        long total = (Long) rows.get(0)[1];
+        return Optional.of(TaskSubtree.builder()
+                .rootId(id)
+                .totalTasks(total)
+                .completedTasks((Long) rows.get(0)[2])
+                .tasks(tasks)
+                .truncated(total > tasks.size())
+                .build());
+    }
 
+    @Override
+    public Task createTask(Task task) {
+        // The id is never taken from the request and parentId cannot be changed later,
+        // so a new task can only hang below an existing one and never close a cycle
+        Long parentId = task.getParentId();
+        if (parentId != null && !taskRepository.existsById(parentId)) {
+            throw new InvalidParentTaskException("Parent task not found with id " + parentId);
+        }
+        Task saved = taskRepository.save(task);
+        missingTaskCache.invalidateAfterCommit(saved.getId());
+        return saved;
     }
 
     @Override
     public Task updateTask(Long id, Boolean completed) {
-        return taskRepository.findById(id)
+        return getTaskById(id)
                 .map(task -> {
                     task.setCompleted(completed);
                     return taskRepository.save(task);
@@ -45,7 +91,7 @@ public class TaskServiceImpl implements TaskService{
 
     @Override
     public Task updateDescription(Long id, String desc) {
-        return taskRepository.findById(id)
+        return getTaskById(id)
                 .map(task -> {
                     task.setDescription(desc);
                     return taskRepository.save(task);
@@ -0,0 +1,118 @@
+package com.rani.todo.Config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives adjust() against a real Hikari pool on H2 and the meters Hikari publishes to Micrometer.
+ */
+class AdaptivePoolControllerHikariTest {
+
+    private HikariDataSource dataSource;
+    private AdaptivePoolController controller;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:adaptivePool;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPoolName("adaptive-test");
+        config.setMinimumIdle(1);
+        config.setMaximumPoolSize(10);
+        config.setConnectionTimeout(5000);
+        config.setMetricRegistry(new SimpleMeterRegistry());
+        dataSource = new HikariDataSource(config);
+
+        controller = new AdaptivePoolController();
+        ReflectionTestUtils.setField(controller, "dataSource", dataSource);
+        ReflectionTestUtils.setField(controller, "meterRegistry", config.getMetricRegistry());
+        ReflectionTestUtils.setField(controller, "minSize", 2);
+        ReflectionTestUtils.setField(controller, "maxSize", 20);
+        ReflectionTestUtils.setField(controller, "step", 2);
+        ReflectionTestUtils.setField(controller, "targetWaitMs", 1000.0);
+        ReflectionTestUtils.setField(controller, "latencyFactor", 2.0);
+        controller.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void testAdjust_GrowsPoolWhileThreadsWait() throws Exception {
+        dataSource.getHikariConfigMXBean().setMaximumPoolSize(2);
+        List<Connection> held = new ArrayList<>(List.of(dataSource.getConnection(), dataSource.getConnection()));
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(this::connection);
+        try {
+            while (dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection() == 0) {
+                Thread.sleep(5);
+            }
+
+            controller.adjust();
+
+            assertEquals(4, dataSource.getHikariConfigMXBean().getMaximumPoolSize());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+            waiter.join().close();
+        }
+    }
+
+    @Test
+    void testAdjust_ShrinksWhenIntervalLatencyRisesPastBaseline() throws Exception {
+        // Nine quick borrows set the baseline
+        for (int i = 0; i < 9; i++) {
+            hold(10);
+        }
+        controller.adjust();
+        assertEquals(10, dataSource.getHikariConfigMXBean().getMaximumPoolSize(), "pool was resized without cause");
+
+        // One slow borrow: over the whole run the mean is still close to the baseline,
+        // but over this interval alone latency is several times higher
+        hold(60);
+        controller.adjust();
+
+        assertEquals(8, dataSource.getHikariConfigMXBean().getMaximumPoolSize());
+    }
+
+    @Test
+    void testAdjust_IntervalWithoutTrafficKeepsBaseline() throws Exception {
+        hold(20);
+        controller.adjust();
+        double baseline = (double) ReflectionTestUtils.getField(controller, "baselineUsageMs");
+
+        controller.adjust();
+
+        assertTrue(baseline >= 15, "baseline " + baseline + " ms does not reflect the 20 ms borrow");
+        assertEquals(baseline, (double) ReflectionTestUtils.getField(controller, "baselineUsageMs"));
+    }
+
+    private void hold(long millis) throws SQLException, InterruptedException {
+        try (Connection ignored = dataSource.getConnection()) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private Connection connection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.rani.todo.Config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePoolControllerTest {
+
+    private AdaptivePoolController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new AdaptivePoolController();
+        ReflectionTestUtils.setField(controller, "minSize", 5);
+        ReflectionTestUtils.setField(controller, "maxSize", 30);
+        ReflectionTestUtils.setField(controller, "step", 2);
+        ReflectionTestUtils.setField(controller, "targetWaitMs", 5.0);
+        ReflectionTestUtils.setField(controller, "latencyFactor", 2.0);
+    }
+
+    @Test
+    void testNextPoolSize_GrowsWhenRequestsWait() {
+        AdaptivePoolController.PoolSample sample = new AdaptivePoolController.PoolSample(20, 3, 3, 4, 0);
+
+        assertEquals(12, controller.nextPoolSize(10, sample));
+    }
+
+    @Test
+    void testNextPoolSize_ShrinksWhenDatabaseSlows() {
+        // Requests are waiting, but latency is 3x the baseline so more connections would not help
+        AdaptivePoolController.PoolSample sample = new AdaptivePoolController.PoolSample(20, 9, 3, 4, 0);
+
+        assertEquals(8, controller.nextPoolSize(10, sample));
+    }
+
+    @Test
+    void testNextPoolSize_ShrinksWhenIdle() {
+        AdaptivePoolController.PoolSample sample = new AdaptivePoolController.PoolSample(0.1, 3, 3, 0, 6);
+
+        assertEquals(9, controller.nextPoolSize(10, sample));
+    }
+
+    @Test
+    void testNextPoolSize_StaysWithinBounds() {
+        AdaptivePoolController.PoolSample waiting = new AdaptivePoolController.PoolSample(20, 3, 3, 4, 0);
+        AdaptivePoolController.PoolSample idle = new AdaptivePoolController.PoolSample(Double.NaN, Double.NaN, 3, 0, 5);
+
+        assertEquals(30, controller.nextPoolSize(29, waiting));
+        assertEquals(5, controller.nextPoolSize(5, idle));
+    }
+}
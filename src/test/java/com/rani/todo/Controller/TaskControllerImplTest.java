@@ -1,14 +1,20 @@
 package com.rani.todo.Controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rani.todo.Dto.TaskSubtree;
 import com.rani.todo.Entity.Task;
+import com.rani.todo.Exceptions.InvalidParentTaskException;
+import com.rani.todo.Exceptions.TaskNotFoundException;
+import com.rani.todo.Security.SecurityConfig;
 import com.rani.todo.Service.TaskServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
@@ -21,6 +27,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TaskControllerImpl.class)
+@Import(SecurityConfig.class)
+@WithMockUser
 class TaskControllerImplTest {
 
     @Autowired
@@ -46,7 +54,7 @@ class TaskControllerImplTest {
     void getAllTasks_ShouldReturnTaskList() throws Exception {
         when(taskService.getAllTasks()).thenReturn(Arrays.asList(task));
 
-        mockMvc.perform(get("/api/tasks")
+        mockMvc.perform(get("/api/tasks/")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(task.getId()))
@@ -70,14 +78,31 @@ class TaskControllerImplTest {
 
         mockMvc.perform(get("/api/tasks/1")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("/problems/task-not-found"))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void getSubtree_ShouldReturnSubtree_WhenTaskExists() throws Exception {
+        TaskSubtree subtree = TaskSubtree.builder().rootId(1L).totalTasks(1).completedTasks(0)
+                .tasks(Arrays.asList(task)).build();
+        when(taskService.getSubtree(1L)).thenReturn(Optional.of(subtree));
+
+        mockMvc.perform(get("/api/tasks/1/subtree")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rootId").value(1))
+                .andExpect(jsonPath("$.totalTasks").value(1))
+                .andExpect(jsonPath("$.tasks[0].id").value(task.getId()));
     }
 
     @Test
     void createTask_ShouldReturnCreatedTask() throws Exception {
         when(taskService.createTask(any(Task.class))).thenReturn(task);
 
-        mockMvc.perform(post("/api/tasks")
+        mockMvc.perform(post("/api/tasks/")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(task)))
                 .andExpect(status().isOk())
@@ -85,6 +110,19 @@ class TaskControllerImplTest {
                 .andExpect(jsonPath("$.description").value(task.getDescription()));
     }
 
+    @Test
+    void createTask_ShouldReturnProblem_WhenParentIsInvalid() throws Exception {
+        when(taskService.createTask(any(Task.class))).thenThrow(new InvalidParentTaskException("Parent task not found with id 4"));
+
+        mockMvc.perform(post("/api/tasks/")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(task)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("/problems/invalid-parent"))
+                .andExpect(jsonPath("$.detail").value("Parent task not found with id 4"));
+    }
+
     @Test
     void updateTaskCompletion_ShouldReturnUpdatedTask_WhenTaskExists() throws Exception {
         task.setCompleted(true);
@@ -97,6 +135,19 @@ class TaskControllerImplTest {
                 .andExpect(jsonPath("$.completed").value(true));
     }
 
+    @Test
+    void updateTaskCompletion_ShouldReturnProblem_WhenTaskDoesNotExist() throws Exception {
+        when(taskService.updateTask(eq(3L), eq(true))).thenThrow(new TaskNotFoundException("Task not found with id 3"));
+
+        mockMvc.perform(patch("/api/tasks/completed/3")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(true)))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("Task not found with id 3"));
+    }
+
 /*    @Test
     void updateDescription_ShouldReturnUpdatedTask_WhenTaskExists() throws Exception {
         task.setDescription("Updated Description");
@@ -0,0 +1,157 @@
+package com.rani.todo.LoadTest;
+
+import com.rani.todo.LoadTest.LoadTestSettings.Operation;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation latency histograms (microseconds) and the p99 baseline comparison.
+ */
+class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private double elapsedSeconds;
+
+    LatencyReport() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    void record(Operation operation, long latencyMicros, boolean ok) {
+        histograms.get(operation).recordValue(Math.min(latencyMicros, MAX_TRACKABLE_MICROS));
+        if (!ok) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    /**
+     * Wall-clock time from the start of the measured window to the last measured response; throughput is
+     * what the server actually completed in that time, not the configured duration.
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedSeconds = elapsedNanos / 1e9;
+    }
+
+    double requestsPerSecond() {
+        long count = histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+        return elapsedSeconds > 0 ? count / elapsedSeconds : 0;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    long p99Micros(Operation operation) {
+        return histograms.get(operation).getValueAtPercentile(99.0);
+    }
+
+    String summary() {
+        StringBuilder out = new StringBuilder(String.format("%-8s %8s %10s %9s %9s %9s %9s %9s %7s%n",
+                "op", "count", "req/s", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)", "errors"));
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            out.append(String.format("%-8s %8d %10.1f %9d %9d %9d %9d %9d %7d%n",
+                    operation.name().toLowerCase(),
+                    histogram.getTotalCount(),
+                    elapsedSeconds > 0 ? histogram.getTotalCount() / elapsedSeconds : 0,
+                    histogram.getValueAtPercentile(50.0),
+                    histogram.getValueAtPercentile(90.0),
+                    histogram.getValueAtPercentile(99.0),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue(),
+                    errors.get(operation).get()));
+        });
+        out.append(String.format("achieved %.1f req/s over %.1fs%n", requestsPerSecond(), elapsedSeconds));
+        return out.toString();
+    }
+
+    /**
+     * Operations that ran but too rarely for a stable p99; below about a hundred samples p99 is close to the maximum.
+     */
+    List<String> undersampled(int minSamples) {
+        List<String> operations = new ArrayList<>();
+        histograms.forEach((operation, histogram) -> {
+            long count = histogram.getTotalCount();
+            if (count > 0 && count < minSamples) {
+                operations.add(operation.name().toLowerCase() + " (" + count + " samples)");
+            }
+        });
+        return operations;
+    }
+
+    /**
+     * Compares p99 per operation against the baseline, skipping operations with fewer than {@code minSamples}.
+     * An operation regresses when its p99 exceeds the baseline by more than {@code maxRegression} plus
+     * {@code slackMicros}; the absolute slack keeps scheduler and GC jitter from failing fast operations.
+     *
+     * @return one message per regressed operation; empty if none did.
+     */
+    List<String> regressionsAgainst(Properties baseline, double maxRegression, long slackMicros, int minSamples) {
+        List<String> regressions = new ArrayList<>();
+        histograms.forEach((operation, histogram) -> {
+            String stored = baseline.getProperty(key(operation));
+            if (stored == null || histogram.getTotalCount() < minSamples) {
+                return;
+            }
+            long baselineP99 = Long.parseLong(stored);
+            long p99 = histogram.getValueAtPercentile(99.0);
+            if (p99 > baselineP99 * (1 + maxRegression) + slackMicros) {
+                regressions.add(String.format("%s p99 %dus exceeds baseline %dus by more than %.0f%% + %dus",
+                        operation.name().toLowerCase(), p99, baselineP99, maxRegression * 100, slackMicros));
+            }
+        });
+        return regressions;
+    }
+
+    static Properties loadBaseline(Path file) throws IOException {
+        Properties baseline = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                baseline.load(reader);
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * Stores p99 for every operation with at least {@code minSamples}.
+     *
+     * @return number of operations stored.
+     */
+    int storeBaseline(Path file, int minSamples) throws IOException {
+        Properties baseline = new Properties();
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() >= minSamples) {
+                baseline.setProperty(key(operation), String.valueOf(histogram.getValueAtPercentile(99.0)));
+            }
+        });
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            baseline.store(writer, "p99 latency baseline in microseconds, see TodoLoadTest");
+        }
+        return baseline.size();
+    }
+
+    private static String key(Operation operation) {
+        return operation.name().toLowerCase() + ".p99.micros";
+    }
+}
@@ -0,0 +1,48 @@
+package com.rani.todo.LoadTest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test knobs, read from system properties so they can be passed on the command line,
+ * e.g. {@code mvn test -Ploadtest -Dloadtest.rate=500}.
+ */
+record LoadTestSettings(int seedTasks,
+                        int ratePerSecond,
+                        int warmupSeconds,
+                        int durationSeconds,
+                        Map<Operation, Integer> mix,
+                        Path baselineFile,
+                        double maxP99Regression,
+                        long p99SlackMicros,
+                        int minSamples,
+                        boolean updateBaseline) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.seed-tasks", 10_000),
+                Integer.getInteger("loadtest.rate", 200),
+                Integer.getInteger("loadtest.warmup-seconds", 5),
+                Integer.getInteger("loadtest.duration-seconds", 30),
+                parseMix(System.getProperty("loadtest.mix", "list=2,get=45,miss=5,create=20,patch=18,delete=10")),
+                Path.of(System.getProperty("loadtest.baseline", "loadtest-baseline.properties")),
+                Double.parseDouble(System.getProperty("loadtest.max-p99-regression", "0.25")),
+                Long.getLong("loadtest.p99-slack-micros", 5_000),
+                Integer.getInteger("loadtest.min-samples", 100),
+                Boolean.getBoolean("loadtest.update-baseline"));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split("=");
+            weights.put(Operation.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return weights;
+    }
+
+    enum Operation {
+        LIST, GET, MISS, CREATE, PATCH, DELETE
+    }
+}
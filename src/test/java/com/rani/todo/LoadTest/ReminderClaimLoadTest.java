@@ -0,0 +1,85 @@
+package com.rani.todo.LoadTest;
+
+import com.rani.todo.Repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cost of the reminder claim query as delivered reminders pile up.
+ * Run with {@code mvn test -Ploadtest -Dtest=ReminderClaimLoadTest -Dloadtest.reminder-history=1000000}.
+ */
+@Slf4j
+@Tag("load")
+@DataJpaTest
+@ActiveProfiles("test")
+class ReminderClaimLoadTest {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PENDING = 500;
+    private static final int SAMPLES = 200;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void claimCost_ShouldNotGrowWithReminderHistory() {
+        int history = Integer.getInteger("loadtest.reminder-history", 200_000);
+        LocalDateTime now = LocalDateTime.now();
+        insert(PENDING, now.plusSeconds(30), null);
+
+        sampleClaims(now); // warm-up
+        Histogram before = sampleClaims(now);
+        insert(history, now.minusDays(1), now.minusDays(1));
+        Histogram after = sampleClaims(now);
+
+        log.info("Reminder claim p50/p99: {}/{} us with no history, {}/{} us with {} sent reminders",
+                before.getValueAtPercentile(50), before.getValueAtPercentile(99),
+                after.getValueAtPercentile(50), after.getValueAtPercentile(99), history);
+        assertTrue(after.getValueAtPercentile(50) < before.getValueAtPercentile(50) * 3,
+                "claim p50 grew with reminder history");
+    }
+
+    private Histogram sampleClaims(LocalDateTime now) {
+        Histogram histogram = new Histogram(TimeUnit.SECONDS.toMicros(10), 3);
+        for (int i = 0; i < SAMPLES; i++) {
+            long began = System.nanoTime();
+            int claimed = taskRepository.findClaimableReminders(now.plusSeconds(60), now, PageRequest.of(0, PENDING)).size();
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - began));
+            assertEquals(PENDING, claimed);
+        }
+        return histogram;
+    }
+
+    private void insert(int count, LocalDateTime reminderAt, LocalDateTime sentAt) {
+        Timestamp reminder = Timestamp.valueOf(reminderAt);
+        Timestamp sent = sentAt == null ? null : Timestamp.valueOf(sentAt);
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{"reminder " + i, false, created, created, reminder, sent});
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tasks (title, completed, created_at, updated_at, reminder_at, reminder_sent_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
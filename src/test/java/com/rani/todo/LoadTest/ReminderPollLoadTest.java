@@ -0,0 +1,131 @@
+package com.rani.todo.LoadTest;
+
+import com.rani.todo.Scheduler.ReminderScheduler;
+import com.rani.todo.Service.ReminderService;
+import com.rani.todo.Service.ReminderServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cost of one scheduler poll plus tick as future reminders pile up in the database.
+ * Only reminders inside the look-ahead window are claimed, so the poll should not slow down with the
+ * millions of rows due later. Runs on an H2 file database because the rows do not fit the test heap in memory.
+ * Run with {@code mvn test -Ploadtest -Dtest=ReminderPollLoadTest -Dloadtest.reminder-pending=10000000}.
+ */
+@Slf4j
+@Tag("load")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:file:./target/reminder-poll-load;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ReminderServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReminderPollLoadTest {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int DUE = 500;
+    private static final int SAMPLES = 50;
+    private static final long WINDOW_SECONDS = 60;
+
+    @Autowired
+    private ReminderService reminderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pollAndTick_ShouldNotGrowWithFutureReminders() {
+        int pending = Integer.getInteger("loadtest.reminder-pending", 10_000_000);
+        LocalDateTime now = LocalDateTime.now();
+        insert(DUE, now);
+        long firstDueId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM tasks", Long.class);
+        long lastDueId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+
+        samplePolls(firstDueId, lastDueId); // warm-up
+        Histogram before = samplePolls(firstDueId, lastDueId);
+        long began = System.nanoTime();
+        insert(pending, now.plusHours(1));
+        // Fresh statistics, as autovacuum keeps them in production; without them H2 runs the single-row
+        // markReminderSent update through the pending-reminder index instead of the primary key
+        jdbcTemplate.execute("ANALYZE");
+        log.info("Seeded {} future reminders in {} s", pending, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - began));
+        Histogram after = samplePolls(firstDueId, lastDueId);
+
+        log.info("Reminder poll+tick p50/p99: {}/{} us with {} due only, {}/{} us with {} more pending beyond the window",
+                before.getValueAtPercentile(50), before.getValueAtPercentile(99), DUE,
+                after.getValueAtPercentile(50), after.getValueAtPercentile(99), pending);
+        assertTrue(after.getValueAtPercentile(50) < before.getValueAtPercentile(50) * 3,
+                "poll p50 grew with reminders pending beyond the window");
+    }
+
+    private Histogram samplePolls(long firstDueId, long lastDueId) {
+        Histogram histogram = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+        long middle = firstDueId + DUE / 2;
+        for (int i = 0; i < SAMPLES; i++) {
+            // Re-arm the due rows: half already overdue and fired by the poll itself, half placed on the wheel
+            LocalDateTime now = LocalDateTime.now();
+            rearm(firstDueId, middle - 1, now.minusSeconds(5));
+            rearm(middle, lastDueId, now.plusSeconds(WINDOW_SECONDS / 2));
+            AtomicInteger fired = new AtomicInteger();
+            ReminderScheduler scheduler = scheduler(fired);
+
+            long began = System.nanoTime();
+            scheduler.loadUpcomingReminders();
+            scheduler.tick();
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - began));
+            assertEquals(middle - firstDueId, fired.get());
+        }
+        return histogram;
+    }
+
+    private ReminderScheduler scheduler(AtomicInteger fired) {
+        ApplicationEventPublisher publisher = event -> fired.incrementAndGet();
+        ReminderScheduler scheduler = new ReminderScheduler(1_000, 64);
+        ReflectionTestUtils.setField(scheduler, "reminderService", reminderService);
+        ReflectionTestUtils.setField(scheduler, "eventPublisher", publisher);
+        ReflectionTestUtils.setField(scheduler, "windowSeconds", WINDOW_SECONDS);
+        ReflectionTestUtils.setField(scheduler, "batchSize", DUE);
+        ReflectionTestUtils.setField(scheduler, "maxBatchesPerPoll", 4);
+        return scheduler;
+    }
+
+    private void rearm(long fromId, long toId, LocalDateTime reminderAt) {
+        jdbcTemplate.update("UPDATE tasks SET reminder_at = ?, reminder_sent_at = NULL, reminder_claimed_by = NULL,"
+                + " reminder_lease_until = NULL WHERE id BETWEEN ? AND ?", Timestamp.valueOf(reminderAt), fromId, toId);
+    }
+
+    // Spreads reminders over thirty days from the given start, one per second
+    private void insert(int count, LocalDateTime from) {
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            Timestamp reminder = Timestamp.valueOf(from.plusSeconds(i % TimeUnit.DAYS.toSeconds(30)));
+            batch.add(new Object[]{"reminder " + i, false, created, created, reminder});
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tasks (title, completed, created_at, updated_at, reminder_at)"
+                        + " VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.rani.todo.LoadTest;
+
+import com.rani.todo.Dto.TaskSubtree;
+import com.rani.todo.Entity.Task;
+import com.rani.todo.Repository.TaskRepository;
+import com.rani.todo.Service.MissingTaskCache;
+import com.rani.todo.Service.TaskServiceImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Subtree fetch on a deep chain and on a wide, flat tree.
+ * Run with {@code mvn test -Ploadtest -Dtest=SubtreeLoadTest -Dloadtest.subtree-depth=1000 -Dloadtest.subtree-width=100000}.
+ */
+@Slf4j
+@Tag("load")
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "todo.tasks.subtree.max-tasks=" + SubtreeLoadTest.MAX_TASKS)
+@Import({TaskServiceImpl.class, MissingTaskCache.class})
+class SubtreeLoadTest {
+
+    private static final int BATCH_SIZE = 1_000;
+    static final int MAX_TASKS = 10_000;
+    private static final int SAMPLES = 20;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deepChain_ShouldReturnEveryLevel() {
+        int depth = Integer.getInteger("loadtest.subtree-depth", 1_000);
+        Long rootId = null;
+        Long parentId = null;
+        for (int i = 0; i < depth; i++) {
+            parentId = taskRepository.save(Task.builder().title("level " + i).completed(false).parentId(parentId).build()).getId();
+            if (rootId == null) {
+                rootId = parentId;
+            }
+        }
+
+        measure("deep", rootId, depth);
+    }
+
+    @Test
+    void wideTree_ShouldCapRowsAndCountEveryChild() {
+        int width = Integer.getInteger("loadtest.subtree-width", 100_000);
+        Long rootId = taskRepository.save(Task.builder().title("root").completed(false).build()).getId();
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < width; i++) {
+            batch.add(new Object[]{"child " + i, i % 2 == 0, created, created, rootId});
+            if (batch.size() == BATCH_SIZE || i == width - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tasks (title, completed, created_at, updated_at, parent_id)"
+                        + " VALUES (?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+
+        measure("wide", rootId, width + 1);
+    }
+
+    private void measure(String shape, Long rootId, int expectedTotal) {
+        Histogram histogram = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+        TaskSubtree subtree = null;
+        for (int i = 0; i < SAMPLES; i++) {
+            long began = System.nanoTime();
+            subtree = taskService.getSubtree(rootId).orElseThrow();
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - began));
+        }
+
+        log.info("Subtree {} ({} tasks): one query p50/p99 {}/{} us, {} tasks returned{}",
+                shape, expectedTotal, histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+                subtree.getTasks().size(), subtree.isTruncated() ? " (truncated)" : "");
+        assertEquals(expectedTotal, subtree.getTotalTasks());
+        assertEquals(Math.min(expectedTotal, MAX_TASKS), subtree.getTasks().size());
+        assertEquals(expectedTotal > MAX_TASKS, subtree.isTruncated());
+    }
+}
@@ -0,0 +1,68 @@
+package com.rani.todo.LoadTest;
+
+import com.rani.todo.Scheduler.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Per-tick cost of the reminder wheel with millions of entries pending further out.
+ * A micro-benchmark of the data structure: the scheduler only ever holds the look-ahead window on the wheel,
+ * see {@link ReminderPollLoadTest} for the cost of many stored reminders.
+ * Each run fires the same near-term reminders; only the number of far-off ones changes,
+ * so a constant per-tick cost shows up as flat timings across runs.
+ * Run with {@code mvn test -Ploadtest -Dtest=TimingWheelLoadTest -Dloadtest.wheel-items=10000000}.
+ */
+@Slf4j
+@Tag("load")
+class TimingWheelLoadTest {
+
+    private static final long TICK_MS = 1_000;
+    private static final int WHEEL_SIZE = 64;
+    private static final int MEASURED_TICKS = 3_600;
+    private static final int DUE_ITEMS = 10_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void tickCost_ShouldNotGrowWithPendingReminders() {
+        int pending = Integer.getInteger("loadtest.wheel-items", 10_000_000);
+
+        double emptyNanos = nanosPerTick(0);
+        double fullNanos = nanosPerTick(pending);
+        log.info("Timing wheel: {} ns/tick with no far-off reminders, {} ns/tick with {} pending",
+                Math.round(emptyNanos), Math.round(fullNanos), pending);
+
+        assertTrue(fullNanos < emptyNanos * 3,
+                "per-tick cost grew from " + emptyNanos + " to " + fullNanos + " ns with " + pending + " pending");
+    }
+
+    private double nanosPerTick(int pending) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = 0;
+            TimingWheel<Long> wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, start);
+            Long farOff = -1L;
+            for (int i = 0; i < pending; i++) {
+                // Thirty days out, so they stay in one high-level bucket during the measured hour
+                wheel.schedule(farOff, start + TimeUnit.DAYS.toMillis(30) + (i % 86_400) * TICK_MS);
+            }
+            for (long i = 0; i < DUE_ITEMS; i++) {
+                wheel.schedule(i, start + TICK_MS + (i % MEASURED_TICKS) * TICK_MS);
+            }
+
+            int fired = 0;
+            long began = System.nanoTime();
+            for (int tick = 1; tick <= MEASURED_TICKS; tick++) {
+                fired += wheel.advanceClock(start + tick * TICK_MS).size();
+            }
+            best = Math.min(best, System.nanoTime() - began);
+            assertEquals(DUE_ITEMS, fired);
+            assertEquals(pending, wheel.size());
+        }
+        return (double) best / MEASURED_TICKS;
+    }
+}
@@ -0,0 +1,87 @@
+package com.rani.todo.LoadTest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test against an embedded H2 database.
+ * Run with {@code mvn test -Ploadtest}; see {@link LoadTestSettings} for the knobs.
+ * Runs with {@code -Dloadtest.update-baseline=true} store the p99 baseline; other runs fail without one or on regressions.
+ * Only operations with at least {@code loadtest.min-samples} samples are stored and compared.
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles({"test", "loadtest"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TodoLoadTest {
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void mixedWorkload_ShouldStayWithinBaseline() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        seed(settings.seedTasks());
+        long minId = jdbcTemplate.queryForObject("SELECT COALESCE(MIN(id), 1) FROM tasks", Long.class);
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 1) FROM tasks", Long.class);
+
+        WorkloadDriver driver = new WorkloadDriver(URI.create("http://localhost:" + port), settings, minId, maxId);
+        driver.login("user", "userpass");
+        LatencyReport report = driver.run();
+        log.info("Load test at a target of {} req/s over {} seeded tasks:\n{}",
+                settings.ratePerSecond(), settings.seedTasks(), report.summary());
+
+        assertEquals(0, report.totalErrors(), "unexpected responses during the run");
+        List<String> undersampled = report.undersampled(settings.minSamples());
+        if (!undersampled.isEmpty()) {
+            log.warn("Not gating on {}: fewer than {} samples, raise loadtest.rate or loadtest.duration-seconds",
+                    undersampled, settings.minSamples());
+        }
+        Properties baseline = LatencyReport.loadBaseline(settings.baselineFile());
+        if (settings.updateBaseline()) {
+            int stored = report.storeBaseline(settings.baselineFile(), settings.minSamples());
+            assertTrue(stored > 0, "no operation reached " + settings.minSamples() + " samples, nothing to store");
+            log.info("Stored p99 baseline for {} operations in {}", stored, settings.baselineFile().toAbsolutePath());
+            return;
+        }
+        assertFalse(baseline.isEmpty(), "No p99 baseline at " + settings.baselineFile().toAbsolutePath()
+                + "; record one with -Dloadtest.update-baseline=true");
+        List<String> regressions = report.regressionsAgainst(baseline, settings.maxP99Regression(),
+                settings.p99SlackMicros(), settings.minSamples());
+        assertTrue(regressions.isEmpty(), String.join("\n", regressions));
+    }
+
+    private void seed(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{"seed " + i, "seed", i % 2 == 0, now, now});
+            if (batch.size() == SEED_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO tasks (title, description, completed, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                        batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.rani.todo.LoadTest;
+
+import com.rani.todo.LoadTest.LoadTestSettings.Operation;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a mixed workload against a running server at a fixed arrival rate.
+ * Requests are issued on schedule whether or not earlier ones have completed, and latency is measured from the
+ * intended start time, so a stalled server shows up in the percentiles instead of silently lowering the rate.
+ */
+class WorkloadDriver {
+
+    private static final long MISSING_ID_OFFSET = 1_000_000_000L;
+    private static final int MISSING_ID_COUNT = 100;
+
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final HttpClient client;
+    private final AtomicLong minId;
+    private final AtomicLong maxId;
+    private final Operation[] schedule;
+
+    WorkloadDriver(URI baseUri, LoadTestSettings settings, long minId, long maxId) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.minId = new AtomicLong(minId);
+        this.maxId = new AtomicLong(maxId);
+        this.schedule = expand(settings.mix());
+    }
+
+    /**
+     * Logs in through the form login so every request afterwards passes the real security chain with a session.
+     */
+    void login(String username, String password) throws IOException, InterruptedException {
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(baseUri.resolve("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Login failed for " + username + ": " + response.statusCode() + " " + location);
+        }
+    }
+
+    LatencyReport run() {
+        LatencyReport report = new LatencyReport();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / settings.ratePerSecond();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        AtomicLong lastMeasuredCompletion = new AtomicLong(measureFrom);
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * periodNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            boolean measured = intendedStart >= measureFrom;
+            inFlight.add(client.sendAsync(request(operation), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (!measured) {
+                            return;
+                        }
+                        long completedAt = System.nanoTime();
+                        lastMeasuredCompletion.accumulateAndGet(completedAt, Math::max);
+                        long latencyNanos = completedAt - intendedStart;
+                        boolean ok = error == null && isExpected(operation, response.statusCode());
+                        report.record(operation, TimeUnit.NANOSECONDS.toMicros(latencyNanos), ok);
+                    }));
+            inFlight.removeIf(CompletableFuture::isDone);
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]))
+                .exceptionally(error -> null)
+                .join();
+        report.setElapsedNanos(lastMeasuredCompletion.get() - measureFrom);
+        return report;
+    }
+
+    private HttpRequest request(Operation operation) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        return switch (operation) {
+            case LIST -> builder.uri(baseUri.resolve("/api/tasks/")).GET().build();
+            case GET -> builder.uri(taskUri("/api/tasks/")).GET().build();
+            case MISS -> builder.uri(missingTaskUri()).GET().build();
+            case CREATE -> {
+                maxId.incrementAndGet();
+                yield builder.uri(baseUri.resolve("/api/tasks/"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"load\",\"description\":\"load\"}"))
+                        .build();
+            }
+            case PATCH -> builder.uri(taskUri("/api/tasks/completed/"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("true"))
+                    .build();
+            case DELETE -> builder.uri(taskUri("/api/tasks/")).DELETE().build();
+        };
+    }
+
+    private URI taskUri(String prefix) {
+        long id = ThreadLocalRandom.current().nextLong(minId.get(), maxId.get() + 1);
+        return baseUri.resolve(prefix + id);
+    }
+
+    // A small fixed set of IDs far past anything created, so probes repeat like a client scanning for IDs
+    private URI missingTaskUri() {
+        long id = MISSING_ID_OFFSET + ThreadLocalRandom.current().nextLong(MISSING_ID_COUNT);
+        return baseUri.resolve("/api/tasks/" + id);
+    }
+
+    // Ids are picked at random, so a task deleted earlier in the run is an expected miss for operations on one task
+    private static boolean isExpected(Operation operation, int status) {
+        boolean success = status >= 200 && status < 300;
+        return switch (operation) {
+            case GET, PATCH, DELETE -> success || status == 404;
+            case MISS -> status == 404;
+            case LIST, CREATE -> success;
+        };
+    }
+
+    private static Operation[] expand(Map<Operation, Integer> mix) {
+        List<Operation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Workload mix is empty");
+        }
+        return operations.toArray(new Operation[0]);
+    }
+}
@@ -0,0 +1,144 @@
+package com.rani.todo.Repository;
+
+import com.rani.todo.Entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class TaskRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Task saveReminder(String title, LocalDateTime reminderAt) {
+        return taskRepository.saveAndFlush(Task.builder().title(title).completed(false).reminderAt(reminderAt).build());
+    }
+
+    private List<Long> claimable(LocalDateTime now) {
+        return taskRepository.findClaimableReminders(now.plusSeconds(60), now, PageRequest.of(0, 10))
+                .stream().map(Task::getId).toList();
+    }
+
+    @Test
+    void testFindClaimableReminders_OnlyWithinWindow() {
+        Task due = saveReminder("due", NOW.plusSeconds(30));
+        saveReminder("later", NOW.plusSeconds(600));
+
+        assertEquals(List.of(due.getId()), claimable(NOW));
+    }
+
+    @Test
+    void testClaimReminders_SkippedUntilLeaseExpires() {
+        Task due = saveReminder("due", NOW.plusSeconds(30));
+        taskRepository.claimReminders(List.of(due.getId()), "node-a", NOW.plusSeconds(120));
+
+        assertTrue(claimable(NOW).isEmpty());
+        assertTrue(claimable(NOW.plusSeconds(119)).isEmpty());
+        assertEquals(List.of(due.getId()), claimable(NOW.plusSeconds(121)));
+    }
+
+    @Test
+    void testMarkReminderSent_OnlyLeaseHolderAndOnlyOnce() {
+        Task due = saveReminder("due", NOW.plusSeconds(30));
+        taskRepository.claimReminders(List.of(due.getId()), "node-a", NOW.plusSeconds(120));
+
+        assertEquals(0, taskRepository.markReminderSent(due.getId(), "node-b", NOW));
+        assertEquals(1, taskRepository.markReminderSent(due.getId(), "node-a", NOW));
+        assertEquals(0, taskRepository.markReminderSent(due.getId(), "node-a", NOW));
+    }
+
+    @Test
+    void testFindClaimableReminders_SentRemindersNotReclaimed() {
+        Task due = saveReminder("due", NOW.plusSeconds(30));
+        taskRepository.claimReminders(List.of(due.getId()), "node-a", NOW.plusSeconds(120));
+        taskRepository.markReminderSent(due.getId(), "node-a", NOW);
+
+        // Lease has run out, but the reminder was delivered
+        assertTrue(claimable(NOW.plusSeconds(300)).isEmpty());
+    }
+
+    @Test
+    void testSave_StaleCopyDoesNotRearmSentReminder() {
+        Task stale = saveReminder("due", NOW.plusSeconds(30));
+        taskRepository.claimReminders(List.of(stale.getId()), "node-a", NOW.plusSeconds(120));
+        taskRepository.markReminderSent(stale.getId(), "node-a", NOW);
+
+        // A concurrent PATCH still holds the entity as loaded before the send
+        assertNull(stale.getReminderSentAt());
+        stale.setCompleted(true);
+        taskRepository.saveAndFlush(stale);
+
+        assertNotNull(jdbcTemplate.queryForObject("SELECT reminder_sent_at FROM tasks WHERE id = ?",
+                LocalDateTime.class, stale.getId()));
+        assertEquals(true, jdbcTemplate.queryForObject("SELECT completed FROM tasks WHERE id = ?",
+                Boolean.class, stale.getId()));
+        assertTrue(claimable(NOW.plusSeconds(300)).isEmpty());
+    }
+
+    private Task saveChild(String title, Long parentId, boolean completed) {
+        return taskRepository.saveAndFlush(Task.builder().title(title).completed(completed).parentId(parentId).build());
+    }
+
+    private List<Long> ids(List<Object[]> rows) {
+        return rows.stream().map(row -> ((Task) row[0]).getId()).toList();
+    }
+
+    @Test
+    void testFindSubtree_ReturnsDescendantsAndRollup() {
+        Task root = saveChild("root", null, false);
+        Task child = saveChild("child", root.getId(), true);
+        Task grandchild = saveChild("grandchild", child.getId(), false);
+        saveChild("other", null, true);
+
+        List<Object[]> rows = taskRepository.findSubtree(root.getId(), 10);
+
+        assertEquals(List.of(root.getId(), child.getId(), grandchild.getId()), ids(rows));
+        assertEquals(3L, rows.get(0)[1]);
+        assertEquals(1L, rows.get(0)[2]);
+    }
+
+    @Test
+    void testFindSubtree_CapKeepsWholeSubtreeRollup() {
+        Task root = saveChild("root", null, false);
+        Task first = saveChild("first", root.getId(), true);
+        saveChild("second", root.getId(), true);
+
+        List<Object[]> rows = taskRepository.findSubtree(root.getId(), 2);
+
+        assertEquals(List.of(root.getId(), first.getId()), ids(rows));
+        assertEquals(3L, rows.get(0)[1]);
+        assertEquals(2L, rows.get(0)[2]);
+    }
+
+    @Test
+    void testFindSubtree_MissingRootIsEmpty() {
+        assertTrue(taskRepository.findSubtree(999L, 10).isEmpty());
+    }
+
+    @Test
+    void testFindSubtree_TerminatesOnCycle() {
+        Task a = saveChild("a", null, false);
+        Task b = saveChild("b", a.getId(), false);
+        jdbcTemplate.update("UPDATE tasks SET parent_id = ? WHERE id = ?", b.getId(), a.getId());
+
+        List<Object[]> rows = taskRepository.findSubtree(a.getId(), 10);
+
+        assertEquals(List.of(a.getId(), b.getId()), ids(rows));
+        assertEquals(2L, rows.get(0)[1]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.rani.todo.Scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void testSchedule_PastDeadlineIsRejected() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, START);
+
+        assertFalse(wheel.schedule(1L, START - 5));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvanceClock_FiresOnlyDueItems() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, START);
+        wheel.schedule(1L, START + 20);
+        wheel.schedule(2L, START + 50);
+
+        assertTrue(wheel.advanceClock(START + 10).isEmpty());
+        assertEquals(List.of(1L), wheel.advanceClock(START + 20));
+        assertEquals(List.of(2L), wheel.advanceClock(START + 55));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvanceClock_CascadesFromOverflowLevels() {
+        // 10ms x 8 buckets, deadlines several levels out
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, START);
+        long[] deadlines = {START + 75, START + 100, START + 650, START + 5_000};
+        for (int i = 0; i < deadlines.length; i++) {
+            assertTrue(wheel.schedule((long) i, deadlines[i]));
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now <= START + 6_000; now += 10) {
+            for (Long item : wheel.advanceClock(now)) {
+                long deadline = deadlines[item.intValue()];
+                assertTrue(now >= deadline && now < deadline + 10, "item " + item + " fired at " + (now - START));
+                fired.add(item);
+            }
+        }
+
+        assertEquals(List.of(0L, 1L, 2L, 3L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvanceClock_ManyItemsFireOnce() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 64, START);
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(i, START + 1 + (i % 10_000));
+        }
+
+        int fired = wheel.advanceClock(START + 10_000).size();
+
+        assertEquals(count, fired);
+        assertEquals(0, wheel.size());
+    }
+}
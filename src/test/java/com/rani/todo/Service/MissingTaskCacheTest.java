@@ -0,0 +1,57 @@
+package com.rani.todo.Service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MissingTaskCacheTest {
+
+    @Test
+    void testMarkMissing_FullCacheEvictsOldestEntry() {
+        MissingTaskCache cache = new MissingTaskCache(60_000, 3);
+        cache.markMissing(1L);
+        cache.markMissing(2L);
+        cache.markMissing(3L);
+
+        cache.markMissing(4L);
+
+        assertEquals(3, cache.size());
+        assertFalse(cache.isMissing(1L));
+        assertTrue(cache.isMissing(2L));
+        assertTrue(cache.isMissing(4L));
+    }
+
+    @Test
+    void testMarkMissing_RefreshedEntryIsEvictedLast() {
+        MissingTaskCache cache = new MissingTaskCache(60_000, 2);
+        cache.markMissing(1L);
+        cache.markMissing(2L);
+        cache.markMissing(1L);
+
+        cache.markMissing(3L);
+
+        assertTrue(cache.isMissing(1L));
+        assertFalse(cache.isMissing(2L));
+    }
+
+    @Test
+    void testIsMissing_ExpiredEntryIsDropped() throws InterruptedException {
+        MissingTaskCache cache = new MissingTaskCache(10, 10);
+        cache.markMissing(1L);
+
+        Thread.sleep(20);
+
+        assertFalse(cache.isMissing(1L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidate_RemovesEntry() {
+        MissingTaskCache cache = new MissingTaskCache(60_000, 10);
+        cache.markMissing(1L);
+
+        cache.invalidate(1L);
+
+        assertFalse(cache.isMissing(1L));
+    }
+}
@@ -1,12 +1,19 @@
 package com.rani.todo.Service;
 
+import com.rani.todo.Dto.TaskSubtree;
 import com.rani.todo.Entity.Task;
+import com.rani.todo.Exceptions.InvalidParentTaskException;
 import com.rani.todo.Repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.springframework.boot.test.context.SpringBootTest;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
@@ -15,13 +22,16 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-@SpringBootTest
+@ExtendWith(MockitoExtension.class)
 class TaskServiceImplTest {
 
     public static final String TASK_1 = "task 1";
     @Mock
     private TaskRepository taskRepository;
 
+    @Spy
+    private MissingTaskCache missingTaskCache = new MissingTaskCache(60_000, 100);
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -39,6 +49,8 @@ class TaskServiceImplTest {
         task2.setCompleted(false);
 
         task3 = Task.builder().id(3L).description("Task 3").completed(true).title("task 3").build();
+
+        ReflectionTestUtils.setField(taskService, "maxSubtreeTasks", 10);
     }
 
     private Task getdummyTask() {
@@ -92,6 +104,109 @@ class TaskServiceImplTest {
         verify(taskRepository, times(1)).findById(3L);
     }
 
+    @Test
+    void testGetTaskById_RepeatedMissSkipsRepository() {
+        // Arrange
+        when(taskRepository.findById(3L)).thenReturn(Optional.empty());
+
+        // Act
+        taskService.getTaskById(3L);
+        Optional<Task> task = taskService.getTaskById(3L);
+
+        // Assert
+        assertFalse(task.isPresent());
+        verify(taskRepository, times(1)).findById(3L);
+    }
+
+    @Test
+    void testCreateTask_ClearsCachedMiss() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty()).thenReturn(Optional.of(task1));
+        when(taskRepository.save(task1)).thenReturn(task1);
+
+        // Act
+        taskService.getTaskById(1L);
+        taskService.createTask(task1);
+        Optional<Task> task = taskService.getTaskById(1L);
+
+        // Assert
+        assertTrue(task.isPresent());
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void testCreateTask_ClearsCachedMissOnlyAfterCommit() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.save(task1)).thenReturn(task1);
+        taskService.getTaskById(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            taskService.createTask(task1);
+
+            // Assert
+            assertTrue(missingTaskCache.isMissing(1L), "invalidated before the insert committed");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertFalse(missingTaskCache.isMissing(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private List<Object[]> subtreeRows(long total, long completed, Task... tasks) {
+        return Arrays.stream(tasks).map(task -> new Object[]{task, total, completed}).toList();
+    }
+
+    @Test
+    void testGetSubtree_Found() {
+        // Arrange
+        task2.setParentId(1L);
+        task3.setParentId(1L);
+        when(taskRepository.findSubtree(1L, 10)).thenReturn(subtreeRows(3, 1, task1, task2, task3));
+
+        // Act
+        Optional<TaskSubtree> subtree = taskService.getSubtree(1L);
+
+        // Assert
+        assertTrue(subtree.isPresent());
+        assertEquals(1L, subtree.get().getRootId());
+        assertEquals(3, subtree.get().getTasks().size());
+        assertEquals(3L, subtree.get().getTotalTasks());
+        assertEquals(1L, subtree.get().getCompletedTasks());
+        assertFalse(subtree.get().isTruncated());
+        verify(taskRepository, times(1)).findSubtree(1L, 10);
+    }
+
+    @Test
+    void testGetSubtree_TruncatedKeepsRollup() {
+        // Arrange
+        when(taskRepository.findSubtree(1L, 10)).thenReturn(subtreeRows(12, 5, task1, task2));
+
+        // Act
+        Optional<TaskSubtree> subtree = taskService.getSubtree(1L);
+
+        // Assert
+        assertTrue(subtree.isPresent());
+        assertEquals(2, subtree.get().getTasks().size());
+        assertEquals(12L, subtree.get().getTotalTasks());
+        assertEquals(5L, subtree.get().getCompletedTasks());
+        assertTrue(subtree.get().isTruncated());
+    }
+
+    @Test
+    void testGetSubtree_NotFound() {
+        // Arrange
+        when(taskRepository.findSubtree(4L, 10)).thenReturn(List.of());
+
+        // Act
+        Optional<TaskSubtree> subtree = taskService.getSubtree(4L);
+
+        // Assert
+        assertFalse(subtree.isPresent());
+    }
+
     @Test
     void testCreateTask() {
         // Arrange
@@ -105,6 +220,18 @@ class TaskServiceImplTest {
         verify(taskRepository, times(1)).save(task1);
     }
 
+    @Test
+    void testCreateTask_ParentNotFound() {
+        // Arrange
+        task2.setParentId(4L);
+        when(taskRepository.existsById(4L)).thenReturn(false);
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(InvalidParentTaskException.class, () -> taskService.createTask(task2));
+        assertEquals("Parent task not found with id 4", exception.getMessage());
+        verify(taskRepository, never()).save(task2);
+    }
+
     @Test
     void testUpdateTask_Success() {
         // Arrange
@@ -0,0 +1,42 @@
+package com.rani.todo.Service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Transaction boundaries of TaskServiceImpl through its Spring proxy.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TaskServiceImpl.class, MissingTaskCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServiceImplTransactionTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @SpyBean
+    private DataSource dataSource;
+
+    @Test
+    void testGetTaskById_CachedMissBorrowsNoConnection() throws Exception {
+        assertTrue(taskService.getTaskById(404L).isEmpty());
+        verify(dataSource, atLeastOnce()).getConnection();
+        clearInvocations(dataSource);
+
+        assertTrue(taskService.getTaskById(404L).isEmpty());
+
+        verify(dataSource, never()).getConnection();
+    }
+}